@@ -0,0 +1,161 @@
+package antigravity.audit;
+
+import antigravity.domain.entity.PriceQuoteAudit;
+import antigravity.domain.type.BackpressureType;
+import antigravity.model.request.ProductInfoRequest;
+import antigravity.model.response.ProductAmountResponse;
+import antigravity.repository.PriceQuoteAuditRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 가격 산정 결과 감사 로그 기록기.
+ * - 요청 스레드는 ring buffer 에 발행만 하고, 백그라운드 소비자 스레드가 모아서 JDBC batch insert 한다.
+ * - insert 실패 시 재시도하고, 그래도 실패한 건수는 버려진 건수와 별도로 카운트한다.
+ * - 버퍼 적재량, 버려진 건수, 기록 실패 건수는 actuator metrics 로 노출한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class PriceQuoteAuditor {
+    private final PriceQuoteAuditRepository priceQuoteAuditRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${product.audit.enabled}")
+    private boolean enabled;    // 감사 로그 기록 여부
+
+    @Value("${product.audit.buffer-size}")
+    private int bufferSize;     // ring buffer 크기 (2의 거듭제곱)
+
+    @Value("${product.audit.batch-size}")
+    private int batchSize;      // 한 번에 insert 할 최대 건수
+
+    @Value("${product.audit.backpressure}")
+    private BackpressureType backpressure;  // 버퍼가 가득 찼을 때 처리 방식
+
+    @Value("${product.audit.block-timeout-millis}")
+    private long blockTimeoutMillis;    // BLOCK 정책 최대 대기 시간 (초과 시 버리고 카운트)
+
+    @Value("${product.audit.insert-retries}")
+    private int insertRetries;  // insert 실패 시 재시도 횟수
+
+    @Value("${product.audit.idle-millis}")
+    private long idleMillis;    // 버퍼가 비었을 때 소비자 대기 시간
+
+    private PriceQuoteRingBuffer ringBuffer;
+    private Thread consumer;
+    private volatile boolean running;
+
+    private final LongAdder failed = new LongAdder();  // 재시도 후에도 insert 실패한 건수
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+
+        ringBuffer = new PriceQuoteRingBuffer(bufferSize, backpressure, TimeUnit.MILLISECONDS.toNanos(blockTimeoutMillis));
+
+        Gauge.builder("product.audit.buffer.depth", ringBuffer, PriceQuoteRingBuffer::size)
+                .description("적재된 가격 산정 감사 로그 건수")
+                .register(meterRegistry);
+        Gauge.builder("product.audit.buffer.capacity", ringBuffer, PriceQuoteRingBuffer::capacity)
+                .description("가격 산정 감사 로그 버퍼 크기")
+                .register(meterRegistry);
+        FunctionCounter.builder("product.audit.dropped", ringBuffer, PriceQuoteRingBuffer::dropped)
+                .description("버퍼가 가득 차 버려진 가격 산정 감사 로그 건수")
+                .register(meterRegistry);
+        FunctionCounter.builder("product.audit.failed", failed, LongAdder::sum)
+                .description("insert 재시도 후에도 기록하지 못한 가격 산정 감사 로그 건수")
+                .register(meterRegistry);
+
+        running = true;
+        consumer = new Thread(this::consume, "price-quote-auditor");
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (consumer == null) {
+            return;
+        }
+
+        running = false;
+        LockSupport.unpark(consumer);
+        consumer.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    /**
+     * 가격 산정 결과를 감사 로그로 발행한다.
+     *
+     * @param request 상품 가격 요청
+     * @param response 상품 가격 응답
+     */
+    public void publish(ProductInfoRequest request, ProductAmountResponse response) {
+        if (ringBuffer == null) {
+            return;
+        }
+
+        ringBuffer.publish(
+                request.getProductId(),
+                request.getCouponIds(),
+                response.getOriginPrice(),
+                response.getDiscountPrice(),
+                response.getFinalPrice(),
+                System.currentTimeMillis()
+        );
+    }
+
+    private void consume() {
+        List<PriceQuoteAudit> batch = new ArrayList<>(batchSize);
+
+        while (true) {
+            int count = ringBuffer.drain(batchSize, audit -> batch.add(audit.toBuilder().build()));
+
+            if (count > 0) {
+                flush(batch);
+            } else if (running) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(idleMillis));
+            } else {
+                // 종료 요청 후 버퍼를 모두 비웠으면 종료
+                return;
+            }
+        }
+    }
+
+    private void flush(List<PriceQuoteAudit> batch) {
+        try {
+            for (int attempt = 0; ; attempt++) {
+                try {
+                    priceQuoteAuditRepository.saveAll(batch);
+                    return;
+                } catch (RuntimeException e) {
+                    if (attempt >= insertRetries) {
+                        failed.add(batch.size());
+                        log.error("price quote audit insert failed. size : {}, attempts : {}", batch.size(), attempt + 1, e);
+                        return;
+                    }
+
+                    log.warn("price quote audit insert exception, retry. size : {}, attempt : {}", batch.size(), attempt + 1, e);
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(idleMillis));
+                }
+            }
+        } finally {
+            batch.clear();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package antigravity.audit;
+
+import antigravity.domain.entity.PriceQuoteAudit;
+import antigravity.domain.type.BackpressureType;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * 가격 산정 감사 로그용 lock-free ring buffer (다중 생산자 / 단일 소비자).
+ * - 슬롯은 생성 시점에 모두 할당해두고, 요청 스레드는 슬롯에 값만 복사한다.
+ * - 버퍼가 가득 찬 경우 DROP 이면 버리고 카운트, BLOCK 이면 빈 슬롯이 생길 때까지 대기한다.
+ *   (BLOCK 이라도 최대 대기 시간이 지나면 버리고 카운트한다. 소비자 스레드가 멈춘 경우 요청 스레드가 묶이지 않도록)
+ */
+public class PriceQuoteRingBuffer {
+    private static final long BLOCK_PARK_NANOS = 1_000L;
+
+    private final PriceQuoteAudit[] slots;
+    private final AtomicLongArray published;    // 슬롯별 발행 완료된 시퀀스
+    private final int mask;
+    private final BackpressureType backpressure;
+    private final long maxBlockNanos;           // BLOCK 정책 최대 대기 시간
+
+    private final AtomicLong tail = new AtomicLong();  // 다음에 발행할 시퀀스
+    private final AtomicLong head = new AtomicLong();  // 다음에 소비할 시퀀스
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * @param capacity 버퍼 크기 (2의 거듭제곱)
+     * @param backpressure 버퍼가 가득 찼을 때의 처리 방식
+     * @param maxBlockNanos BLOCK 정책에서 빈 슬롯을 기다리는 최대 시간
+     */
+    public PriceQuoteRingBuffer(int capacity, BackpressureType backpressure, long maxBlockNanos) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity must be a power of two : " + capacity);
+        }
+
+        this.slots = new PriceQuoteAudit[capacity];
+        this.published = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        this.backpressure = backpressure;
+        this.maxBlockNanos = maxBlockNanos;
+
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new PriceQuoteAudit();
+            published.set(i, -1L);
+        }
+    }
+
+    /**
+     * 가격 산정 결과를 버퍼에 발행한다.
+     *
+     * @return 발행 여부 (버퍼가 가득 차 버려진 경우 false)
+     */
+    public boolean publish(int productId, int[] couponIds, int originPrice, int discountPrice, int finalPrice, long quotedAt) {
+        long sequence;
+        long blockStarted = 0;
+        boolean blocking = false;
+
+        while (true) {
+            sequence = tail.get();
+
+            if (sequence - head.get() >= slots.length) {
+                if (backpressure == BackpressureType.DROP) {
+                    dropped.increment();
+                    return false;
+                }
+
+                if (!blocking) {
+                    blocking = true;
+                    blockStarted = System.nanoTime();
+                } else if (System.nanoTime() - blockStarted >= maxBlockNanos) {
+                    // 최대 대기 시간 초과 (소비자 스레드 정지 등)
+                    dropped.increment();
+                    return false;
+                }
+                LockSupport.parkNanos(BLOCK_PARK_NANOS);
+            } else if (tail.compareAndSet(sequence, sequence + 1)) {
+                break;
+            }
+        }
+
+        int index = (int) sequence & mask;
+        PriceQuoteAudit slot = slots[index];
+        slot.setProductId(productId);
+        slot.setCouponIds(couponIds);
+        slot.setOriginPrice(originPrice);
+        slot.setDiscountPrice(discountPrice);
+        slot.setFinalPrice(finalPrice);
+        slot.setQuotedAt(quotedAt);
+
+        published.lazySet(index, sequence);
+        return true;
+    }
+
+    /**
+     * 발행된 슬롯을 순서대로 최대 maxCount 개까지 소비한다.
+     * - consumer 는 슬롯 객체를 재사용하므로 필요한 값은 호출 안에서 복사해야 한다.
+     * - 단일 소비자 스레드에서만 호출해야 한다.
+     *
+     * @return 소비한 슬롯 개수
+     */
+    public int drain(int maxCount, Consumer<PriceQuoteAudit> consumer) {
+        long current = head.get();
+        int count = 0;
+
+        while (count < maxCount) {
+            long sequence = current + count;
+            int index = (int) sequence & mask;
+
+            if (published.get(index) != sequence) {
+                break;
+            }
+
+            consumer.accept(slots[index]);
+            count++;
+        }
+
+        if (count > 0) {
+            head.lazySet(current + count);
+        }
+
+        return count;
+    }
+
+    public int size() {
+        return (int) Math.max(0, tail.get() - head.get());
+    }
+
+    public int capacity() {
+        return slots.length;
+    }
+
+    public long dropped() {
+        return dropped.sum();
+    }
+}
@@ -0,0 +1,81 @@
+package antigravity.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.io.Resource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.init.DataSourceInitializer;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 읽기 / 쓰기 DataSource 분리 설정.
+ * - readOnly 트랜잭션(가격 조회)은 read pool, 그 외는 primary pool 을 사용한다.
+ * - 각 pool 은 별도 bean 으로 등록되어 actuator jdbc.connections.* 지표가 pool 별로 노출된다.
+ * - product.datasource.routing.enabled 가 true 인 환경(로컬은 routing 프로필)에서만 사용한다. (설정이 없으면 spring.datasource 단일 pool)
+ */
+@Configuration
+@ConditionalOnProperty(name = "product.datasource.routing.enabled", havingValue = "true")
+public class DataSourceConfig {
+
+    /**
+     * primary pool 은 spring.datasource 접속 정보와 spring.datasource.hikari pool 설정을 그대로 사용한다.
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("product.datasource.read")
+    public HikariDataSource readDataSource() {
+        return DataSourceBuilder.create().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("readDataSource") DataSource readDataSource) {
+        Map<Object, Object> targetDataSources = new HashMap<>();
+        targetDataSources.put(DataSourceType.PRIMARY, primaryDataSource);
+        targetDataSources.put(DataSourceType.READ, readDataSource);
+
+        RoutingDataSource routingDataSource = new RoutingDataSource();
+        routingDataSource.setTargetDataSources(targetDataSources);
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    /**
+     * 로컬 환경에서 read pool 이 복제본 대신 별도 인메모리 DB 를 바라볼 때 primary 와 같은 스키마, 데이터로 초기화한다.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "product.datasource.routing.initialize-read", havingValue = "true")
+    public DataSourceInitializer readDataSourceInitializer(@Qualifier("readDataSource") DataSource readDataSource,
+                                                           @Value("${spring.sql.init.schema-locations}") Resource[] schemaLocations,
+                                                           @Value("${spring.sql.init.data-locations}") Resource[] dataLocations) {
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator();
+        populator.addScripts(schemaLocations);
+        populator.addScripts(dataLocations);
+
+        DataSourceInitializer initializer = new DataSourceInitializer();
+        initializer.setDataSource(readDataSource);
+        initializer.setDatabasePopulator(populator);
+
+        return initializer;
+    }
+}
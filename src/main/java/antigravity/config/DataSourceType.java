@@ -0,0 +1,5 @@
+package antigravity.config;
+
+public enum DataSourceType {
+    PRIMARY, READ
+}
@@ -0,0 +1,16 @@
+package antigravity.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 readOnly 여부에 따라 read pool / primary pool 로 커넥션을 분기한다.
+ * - readOnly 플래그는 트랜잭션 시작 이후에 설정되므로 LazyConnectionDataSourceProxy 로 감싸서 사용해야 한다.
+ */
+public class RoutingDataSource extends AbstractRoutingDataSource {
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? DataSourceType.READ : DataSourceType.PRIMARY;
+    }
+}
@@ -0,0 +1,18 @@
+package antigravity.config;
+
+import antigravity.converter.ProductAmountBinaryHttpMessageConverter;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // JSON 을 기본 응답으로 유지하기 위해 마지막에 등록 (Accept 로 명시한 경우에만 사용)
+        converters.add(new ProductAmountBinaryHttpMessageConverter());
+    }
+}
@@ -1,8 +1,11 @@
 package antigravity.controller;
 
 import antigravity.model.request.ProductInfoRequest;
+import antigravity.model.request.SaleProductRequest;
 import antigravity.model.response.ProductAmountResponse;
+import antigravity.model.response.SaleProductPageResponse;
 import antigravity.service.ProductService;
+import antigravity.service.SaleProductService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -16,6 +19,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class ProductController {
 
     private final ProductService service;
+    private final SaleProductService saleProductService;
 
     //상품 가격 추출 api
     @GetMapping("/amount")
@@ -26,6 +30,15 @@ public class ProductController {
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
 
+    //할인 상품 목록 api (확정 가격 오름차순, 커서 기반 페이지)
+    @GetMapping("/sale")
+    public ResponseEntity<SaleProductPageResponse> getSaleProducts(SaleProductRequest request) {
+
+        SaleProductPageResponse response = saleProductService.getSaleProducts(request);
+
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
     private ProductInfoRequest getParam() {
         int[] couponIds = {1, 2};
 
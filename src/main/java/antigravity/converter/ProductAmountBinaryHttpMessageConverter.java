@@ -0,0 +1,214 @@
+package antigravity.converter;
+
+import antigravity.error.ErrorResponse;
+import antigravity.model.response.ProductAmountResponse;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.lang.NonNull;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 내부 호출용 상품 가격 바이너리 인코딩.
+ * - Accept: application/x-product-amount 요청에만 사용되며, 기본 응답은 JSON 이다.
+ * - 고정 길이 필드 + 길이 접두 UTF-8 문자열 형식으로, 응답 크기만큼의 byte[] 하나에 바로 인코딩한다.
+ *
+ * <pre>
+ * 상품 가격 : [1 byte type=1][int originPrice][int discountPrice][int finalPrice][short nameLength][name UTF-8]
+ * 오류 응답 : [1 byte type=2][int code][short messageLength][message UTF-8]
+ * (int, short 는 big-endian, 문자열 길이 -1 은 null)
+ * </pre>
+ */
+public class ProductAmountBinaryHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+    public static final String MEDIA_TYPE_VALUE = "application/x-product-amount";
+    public static final MediaType MEDIA_TYPE = MediaType.parseMediaType(MEDIA_TYPE_VALUE);
+
+    private static final byte TYPE_PRODUCT_AMOUNT = 1;
+    private static final byte TYPE_ERROR = 2;
+
+    public ProductAmountBinaryHttpMessageConverter() {
+        super(MEDIA_TYPE);
+    }
+
+    @Override
+    protected boolean supports(@NonNull Class<?> clazz) {
+        return ProductAmountResponse.class == clazz || ErrorResponse.class == clazz;
+    }
+
+    @Override
+    protected void writeInternal(@NonNull Object response, HttpOutputMessage outputMessage) throws IOException {
+        // 인코딩은 한 번만 하고, 본문을 쓰기 전에 Content-Length 를 지정한다.
+        byte[] bytes = encode(response);
+        outputMessage.getHeaders().setContentLength(bytes.length);
+        outputMessage.getBody().write(bytes);
+    }
+
+    @Override
+    @NonNull
+    protected Object readInternal(@NonNull Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        Object decoded = decode(StreamUtils.copyToByteArray(inputMessage.getBody()), inputMessage);
+
+        if (!clazz.isInstance(decoded)) {
+            throw new HttpMessageNotReadableException("product amount binary type mismatch. expected : " + clazz.getSimpleName()
+                    + ", actual : " + decoded.getClass().getSimpleName(), inputMessage);
+        }
+
+        return decoded;
+    }
+
+    /**
+     * 응답 객체를 바이너리로 인코딩한다.
+     */
+    public static byte[] encode(Object response) {
+        byte[] buffer = new byte[encodedLength(response)];
+        int position = 0;
+
+        if (response instanceof ProductAmountResponse) {
+            ProductAmountResponse amount = (ProductAmountResponse) response;
+            buffer[position++] = TYPE_PRODUCT_AMOUNT;
+            position = writeInt(buffer, position, amount.getOriginPrice());
+            position = writeInt(buffer, position, amount.getDiscountPrice());
+            position = writeInt(buffer, position, amount.getFinalPrice());
+            writeString(buffer, position, amount.getName());
+        } else {
+            ErrorResponse error = (ErrorResponse) response;
+            buffer[position++] = TYPE_ERROR;
+            position = writeInt(buffer, position, error.getCode());
+            writeString(buffer, position, error.getMessage());
+        }
+
+        return buffer;
+    }
+
+    private static Object decode(byte[] bytes, HttpInputMessage inputMessage) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+
+        try {
+            byte type = buffer.get();
+
+            if (type == TYPE_PRODUCT_AMOUNT) {
+                return ProductAmountResponse.builder()
+                        .originPrice(buffer.getInt())
+                        .discountPrice(buffer.getInt())
+                        .finalPrice(buffer.getInt())
+                        .name(readString(buffer))
+                        .build();
+            } else if (type == TYPE_ERROR) {
+                return ErrorResponse.builder()
+                        .code(buffer.getInt())
+                        .message(readString(buffer))
+                        .build();
+            }
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new HttpMessageNotReadableException("invalid product amount binary", e, inputMessage);
+        }
+
+        throw new HttpMessageNotReadableException("unknown product amount binary type : " + bytes[0], inputMessage);
+    }
+
+    private static int encodedLength(Object response) {
+        if (response instanceof ProductAmountResponse) {
+            return 1 + Integer.BYTES * 3 + Short.BYTES + utf8Length(((ProductAmountResponse) response).getName());
+        }
+
+        return 1 + Integer.BYTES + Short.BYTES + utf8Length(((ErrorResponse) response).getMessage());
+    }
+
+    private static int writeInt(byte[] buffer, int position, int value) {
+        buffer[position] = (byte) (value >>> 24);
+        buffer[position + 1] = (byte) (value >>> 16);
+        buffer[position + 2] = (byte) (value >>> 8);
+        buffer[position + 3] = (byte) value;
+        return position + Integer.BYTES;
+    }
+
+    /**
+     * 길이 접두 UTF-8 문자열 쓰기 (String.getBytes 없이 버퍼에 바로 인코딩)
+     */
+    private static void writeString(byte[] buffer, int position, String value) {
+        if (value == null) {
+            buffer[position] = (byte) 0xFF;
+            buffer[position + 1] = (byte) 0xFF;
+            return;
+        }
+
+        int length = buffer.length - position - Short.BYTES;
+        buffer[position++] = (byte) (length >>> 8);
+        buffer[position++] = (byte) length;
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+
+            if (c < 0x80) {
+                buffer[position++] = (byte) c;
+            } else if (c < 0x800) {
+                buffer[position++] = (byte) (0xC0 | (c >> 6));
+                buffer[position++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // 짝이 맞지 않는 surrogate 는 String.getBytes 와 동일하게 '?' 로 치환
+                buffer[position++] = '?';
+            } else {
+                buffer[position++] = (byte) (0xE0 | (c >> 12));
+                buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        short length = buffer.getShort();
+
+        if (length == -1) {
+            return null;
+        }
+
+        int size = length & 0xFFFF;
+        String value = new String(buffer.array(), buffer.position(), size, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + size);
+        return value;
+    }
+
+    private static int utf8Length(String value) {
+        if (value == null) {
+            return 0;
+        }
+
+        int length = 0;
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                length += 1;
+            } else {
+                length += 3;
+            }
+        }
+
+        if (length > 0xFFFE) {
+            throw new IllegalArgumentException("string too long for product amount binary : " + length);
+        }
+
+        return length;
+    }
+}
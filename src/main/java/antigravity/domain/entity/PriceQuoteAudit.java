@@ -0,0 +1,19 @@
+package antigravity.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceQuoteAudit {
+    private int productId;
+    private int[] couponIds; // 요청 쿠폰 아이디 리스트
+    private int originPrice; // 상품 기존 가격
+    private int discountPrice; // 총 할인 금액
+    private int finalPrice; // 확정 상품 가격
+    private long quotedAt; // 가격 산정 시각 (epoch millis)
+}
@@ -0,0 +1,20 @@
+package antigravity.domain.event;
+
+import lombok.Builder;
+import lombok.Data;
+import lombok.Singular;
+
+import java.util.Set;
+
+/**
+ * 상품 또는 프로모션 변경 이벤트.
+ * - 상품, 프로모션, 프로모션 매핑을 수정한 쪽에서 ApplicationEventPublisher 로 발행한다.
+ */
+@Data
+@Builder
+public class CatalogChangedEvent {
+    @Singular
+    private Set<Integer> productIds;    // 변경된 상품 아이디 리스트
+    @Singular
+    private Set<Integer> promotionIds;  // 변경된 프로모션 아이디 리스트
+}
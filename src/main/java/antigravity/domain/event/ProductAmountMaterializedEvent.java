@@ -0,0 +1,18 @@
+package antigravity.domain.event;
+
+import lombok.Builder;
+import lombok.Data;
+import lombok.Singular;
+
+import java.util.Set;
+
+/**
+ * 상품 가격 사전 계산 갱신 이벤트.
+ * - 상품별 프로모션 조합 가격을 다시 계산(또는 제거)한 뒤 ProductAmountMaterializer 가 발행한다.
+ */
+@Data
+@Builder
+public class ProductAmountMaterializedEvent {
+    @Singular
+    private Set<Integer> productIds;    // 다시 계산되거나 제거된 상품 아이디 리스트
+}
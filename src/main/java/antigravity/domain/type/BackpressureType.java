@@ -0,0 +1,5 @@
+package antigravity.domain.type;
+
+public enum BackpressureType {
+    DROP, BLOCK
+}
@@ -13,6 +13,9 @@ public enum ErrorCode {
     NOT_EXIST_PROMOTION(40005, "해당 상품은 프로모션 적용 대상이 아닙니다."),
     OVER_DISCOUNT(40006, "할인 금액은 상품 금액보다 클 수 없습니다."),
 
+    // 할인 상품 목록
+    INVALID_CURSOR(40008, "커서는 확정 가격과 상품 아이디를 함께 요청해야 합니다."),
+
     ;
 
     private final int code;
@@ -0,0 +1,16 @@
+package antigravity.model.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SaleProductRequest {
+    private Integer cursorPrice; // 이전 페이지 마지막 상품의 확정 가격
+    private Integer cursorId;    // 이전 페이지 마지막 상품 아이디
+    private Integer size;        // 페이지 크기
+}
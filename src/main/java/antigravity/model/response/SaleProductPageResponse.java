@@ -0,0 +1,16 @@
+package antigravity.model.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class SaleProductPageResponse {
+    private List<SaleProductResponse> products; //할인 상품 리스트
+
+    private boolean hasNext; //다음 페이지 존재 여부
+    private Integer nextCursorPrice; //다음 페이지 요청 시 cursorPrice
+    private Integer nextCursorId; //다음 페이지 요청 시 cursorId
+}
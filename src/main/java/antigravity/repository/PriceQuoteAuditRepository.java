@@ -0,0 +1,45 @@
+package antigravity.repository;
+
+import antigravity.domain.entity.PriceQuoteAudit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+@Repository
+public class PriceQuoteAuditRepository {
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public void saveAll(List<PriceQuoteAudit> audits) {
+        String query = "INSERT INTO `price_quote_audit` (product_id, coupon_ids, origin_price, discount_price, final_price, quoted_at) " +
+                "VALUES (:product_id, :coupon_ids, :origin_price, :discount_price, :final_price, :quoted_at)";
+
+        MapSqlParameterSource[] params = audits.stream()
+                .map(audit -> new MapSqlParameterSource()
+                        .addValue("product_id", audit.getProductId())
+                        .addValue("coupon_ids", toCouponIds(audit.getCouponIds()))
+                        .addValue("origin_price", audit.getOriginPrice())
+                        .addValue("discount_price", audit.getDiscountPrice())
+                        .addValue("final_price", audit.getFinalPrice())
+                        .addValue("quoted_at", new Timestamp(audit.getQuotedAt())))
+                .toArray(MapSqlParameterSource[]::new);
+
+        namedParameterJdbcTemplate.batchUpdate(query, params);
+    }
+
+    private String toCouponIds(int[] couponIds) {
+        if (couponIds == null) {
+            return null;
+        }
+
+        return Arrays.stream(couponIds)
+                .mapToObj(String::valueOf)
+                .collect(Collectors.joining(","));
+    }
+}
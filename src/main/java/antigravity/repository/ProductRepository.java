@@ -4,10 +4,12 @@ import antigravity.domain.entity.Product;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @RequiredArgsConstructor
@@ -16,6 +18,12 @@ import java.util.Optional;
 public class ProductRepository {
     private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
 
+    private static final RowMapper<Product> PRODUCT_ROW_MAPPER = (rs, rowNum) -> Product.builder()
+            .id(rs.getInt("id"))
+            .name(rs.getString("name"))
+            .price(rs.getInt("price"))
+            .build();
+
     public Optional<Product> getProduct(int id) {
         String query = "SELECT * FROM `product` WHERE id = :id ";
 
@@ -23,18 +31,16 @@ public class ProductRepository {
         params.addValue("id", id);
 
         try {
-            return Optional.ofNullable(namedParameterJdbcTemplate.queryForObject(
-                    query,
-                    params,
-                    (rs, rowNum) -> Product.builder()
-                            .id(rs.getInt("id"))
-                            .name(rs.getString("name"))
-                            .price(rs.getInt("price"))
-                            .build()
-            ));
+            return Optional.ofNullable(namedParameterJdbcTemplate.queryForObject(query, params, PRODUCT_ROW_MAPPER));
         } catch (DataAccessException e) {
             log.error("product repository exception", e);
             return Optional.empty();
         }
     }
+
+    public List<Product> getPromotionProducts() {
+        String query = "SELECT * FROM `product` p WHERE EXISTS (SELECT 1 FROM `promotion_products` pp WHERE pp.product_id = p.id)";
+
+        return namedParameterJdbcTemplate.query(query, PRODUCT_ROW_MAPPER);
+    }
 }
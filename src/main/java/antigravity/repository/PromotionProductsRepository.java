@@ -5,6 +5,9 @@ import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @RequiredArgsConstructor
 @Repository
 public class PromotionProductsRepository {
@@ -22,4 +25,13 @@ public class PromotionProductsRepository {
         return promotionId > 0;
 
     }
+
+    public List<Integer> getProductIdsByPromotionIds(Collection<Integer> promotion_ids) {
+        String query = "SELECT DISTINCT product_id FROM `promotion_products` WHERE promotion_id IN (:promotion_ids)";
+
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        params.addValue("promotion_ids", promotion_ids);
+
+        return namedParameterJdbcTemplate.queryForList(query, params, Integer.class);
+    }
 }
@@ -4,33 +4,59 @@ import antigravity.domain.entity.Promotion;
 import antigravity.domain.type.DiscountType;
 import antigravity.domain.type.PromotionType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 @RequiredArgsConstructor
 @Repository
 public class PromotionRepository {
     private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
 
+    private static final RowMapper<Promotion> PROMOTION_ROW_MAPPER = (rs, rowNum) -> Promotion.builder()
+            .id(rs.getInt("id"))
+            .promotion_type(PromotionType.valueOf(rs.getString("promotion_type")))
+            .name(rs.getString("name"))
+            .discount_type(DiscountType.valueOf(rs.getString("discount_type")))
+            .discount_value(rs.getInt("discount_value"))
+            .use_started_at(rs.getDate("use_started_at"))
+            .use_ended_at(rs.getDate("use_ended_at"))
+            .build();
+
     public Promotion getPromotion(int id) {
         String query = "SELECT * FROM `promotion` WHERE id = :id ";
 
         MapSqlParameterSource params = new MapSqlParameterSource();
         params.addValue("id", id);
 
-        return namedParameterJdbcTemplate.queryForObject(
-                query,
-                params,
-                (rs, rowNum) -> Promotion.builder()
-                        .id(rs.getInt("id"))
-                        .promotion_type(PromotionType.valueOf(rs.getString("promotion_type")))
-                        .name(rs.getString("name"))
-                        .discount_type(DiscountType.valueOf(rs.getString("discount_type")))
-                        .discount_value(rs.getInt("discount_value"))
-                        .use_started_at(rs.getDate("use_started_at"))
-                        .use_ended_at(rs.getDate("use_ended_at"))
-                        .build()
-        );
+        return namedParameterJdbcTemplate.queryForObject(query, params, PROMOTION_ROW_MAPPER);
+    }
+
+    public Map<Integer, List<Promotion>> getPromotionsGroupByProductId() {
+        String query = "SELECT pp.product_id, p.* FROM `promotion` p JOIN `promotion_products` pp ON pp.promotion_id = p.id";
+
+        Map<Integer, List<Promotion>> productPromotions = new HashMap<>();
+
+        namedParameterJdbcTemplate.query(query, rs -> {
+            productPromotions.computeIfAbsent(rs.getInt("product_id"), productId -> new ArrayList<>())
+                    .add(PROMOTION_ROW_MAPPER.mapRow(rs, 0));
+        });
+
+        return productPromotions;
+    }
+
+    public List<Promotion> getPromotionsByProductId(int product_id) {
+        String query = "SELECT p.* FROM `promotion` p JOIN `promotion_products` pp ON pp.promotion_id = p.id WHERE pp.product_id = :product_id";
+
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        params.addValue("product_id", product_id);
+
+        return namedParameterJdbcTemplate.query(query, params, PROMOTION_ROW_MAPPER);
     }
 }
@@ -0,0 +1,222 @@
+package antigravity.service;
+
+import antigravity.domain.entity.Product;
+import antigravity.domain.entity.Promotion;
+import antigravity.domain.type.DiscountType;
+import antigravity.error.ErrorCode;
+import antigravity.error.exception.CustomException;
+import antigravity.model.response.ProductAmountResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 가격 계산기.
+ * - 상품 가격 조회와 할인 상품 목록 등에서 동일한 할인 규칙을 사용하기 위해 분리한다.
+ */
+@Slf4j
+@Component
+public class ProductAmountCalculator {
+    // 상품당 조합 수는 2^maximumPromotions 이므로 계산 가능한 범위로 제한한다. (16 -> 65,536개)
+    private static final int MAXIMUM_PROMOTIONS_LIMIT = 16;
+
+    @Value("${product.price.minimum}")
+    private int minimumPrice;   // 최소 상품 금액
+
+    @Value("${product.price.maximum}")
+    private int maximumPrice;   // 최대 상품 금액
+
+    @Value("${product.amount.precompute.maximum-promotions}")
+    private int maximumPromotions;  // 모든 조합을 계산할 상품당 최대 프로모션 수
+
+    @PostConstruct
+    void validateMaximumPromotions() {
+        if (maximumPromotions < 0 || maximumPromotions > MAXIMUM_PROMOTIONS_LIMIT) {
+            throw new IllegalStateException("product.amount.precompute.maximum-promotions must be between 0 and "
+                    + MAXIMUM_PROMOTIONS_LIMIT + " : " + maximumPromotions);
+        }
+    }
+
+    /**
+     * 상품에 프로모션 리스트를 적용한 가격을 구한다.
+     * - 프로모션 기간, 할인 금액 유효성 체크를 수행한다.
+     *
+     * @param product 상품
+     * @param promotionList 적용할 프로모션 리스트
+     * @param now 기준 시각
+     * @return 상품 가격 응답
+     */
+    public ProductAmountResponse calculate(Product product, List<Promotion> promotionList, Date now) {
+        int finalPrice = product.getPrice();    // 최종 할인된 금액
+        int totalDiscountValue = 0;             // 총 할인 금액
+
+        for (Promotion promotion : promotionList) {
+            log.debug("{}", promotion);
+
+            // 1. 프로모션 기간 체크
+            validatePromotionDate(promotion.getUse_started_at(), promotion.getUse_ended_at(), now);
+
+            // 2. 할인금액 구하기
+            int discountPrice = getDiscountPrice(promotion.getDiscount_type(), promotion.getDiscount_value(), product.getPrice());
+            finalPrice -= discountPrice;
+            totalDiscountValue += discountPrice;
+
+            // 3. 할인금액 체크
+            validateDiscountPrice(finalPrice);
+        }
+
+        if (product.getPrice() > finalPrice) {
+            // 할인된 경우에 한해서만 천단위 절삭 (절삭된 금액은 총 할인 금액에 포함시키지 않음)
+            finalPrice = new BigDecimal(finalPrice).setScale(-4, RoundingMode.DOWN).intValue();
+        }
+
+        return ProductAmountResponse.builder()
+                .name(product.getName())
+                .originPrice(product.getPrice())
+                .discountPrice(totalDiscountValue)
+                .finalPrice(finalPrice)
+                .build();
+    }
+
+    /**
+     * 상품에 사용 가능한 프로모션의 모든 조합별 가격을 구한다.
+     * - 유효하지 않은 조합(할인 금액 초과 등)은 제외한다.
+     * - 프로모션 수가 최대치를 넘으면 조합 수가 급증하므로 미적용, 전체 적용 조합만 계산한다.
+     *
+     * @param product 상품
+     * @param promotionList 상품에 매핑된 프로모션 리스트
+     * @param now 기준 시각
+     * @return 조합별 상품 가격 리스트
+     */
+    public List<ProductAmountCombination> calculateCombinations(Product product, List<Promotion> promotionList, Date now) {
+        List<Promotion> available = promotionList.stream()
+                .filter(promotion -> isAvailable(promotion, now))
+                .collect(Collectors.toMap(Promotion::getId, Function.identity(), (first, second) -> first))
+                .values().stream()
+                .sorted(Comparator.comparingInt(Promotion::getId))
+                .collect(Collectors.toList());
+
+        List<List<Promotion>> promotionCombinations = new ArrayList<>();
+
+        if (available.size() > maximumPromotions) {
+            promotionCombinations.add(Collections.emptyList());
+            promotionCombinations.add(available);
+        } else {
+            for (int mask = 0; mask < 1 << available.size(); mask++) {
+                List<Promotion> combination = new ArrayList<>();
+                for (int i = 0; i < available.size(); i++) {
+                    if ((mask & (1 << i)) != 0) {
+                        combination.add(available.get(i));
+                    }
+                }
+                promotionCombinations.add(combination);
+            }
+        }
+
+        List<ProductAmountCombination> combinations = new ArrayList<>(promotionCombinations.size());
+
+        for (List<Promotion> combination : promotionCombinations) {
+            String signature = combination.stream()
+                    .map(promotion -> String.valueOf(promotion.getId()))
+                    .collect(Collectors.joining(","));
+
+            try {
+                combinations.add(ProductAmountCombination.builder()
+                        .signature(signature)
+                        .expiresAt(combination.stream()
+                                .mapToLong(promotion -> promotion.getUse_ended_at().getTime())
+                                .min()
+                                .orElse(Long.MAX_VALUE))
+                        .response(calculate(product, combination, now))
+                        .build());
+            } catch (CustomException e) {
+                log.debug("invalid promotion combination. productId : {}, coupons : {}, reason : {}", product.getId(), signature, e.getErrorCode());
+            }
+        }
+
+        return combinations;
+    }
+
+    /**
+     * 상품 가격 유효성 체크
+     * @param price 상품 가격
+     */
+    public void validateProductPrice(int price) {
+        if (price < minimumPrice) {
+            throw new CustomException(ErrorCode.PRICE_MINIMUM);
+        } else if (price > maximumPrice) {
+            throw new CustomException(ErrorCode.PRICE_MAXIMUM);
+        }
+    }
+
+    /**
+     * 프로모션 사용 가능 여부
+     *
+     * @param promotion 프로모션
+     * @param now 기준 시각
+     * @return 프로모션 기간 내 여부
+     */
+    public boolean isAvailable(Promotion promotion, Date now) {
+        return !now.before(promotion.getUse_started_at()) && !now.after(promotion.getUse_ended_at());
+    }
+
+    /**
+     * 할인 가격 구하기
+     * @param discountType 할인 종류
+     * @param discountValue 할인 값
+     * @param price 상품 가격
+     * @return 할인 가격
+     */
+    private int getDiscountPrice(DiscountType discountType, int discountValue, int price) {
+        BigDecimal discountPrice = new BigDecimal(0);
+
+        switch (discountType) {
+            case WON:
+                discountPrice = new BigDecimal(discountValue);
+                break;
+            case PERCENT:
+                discountPrice = new BigDecimal(price).multiply(new BigDecimal(discountValue)).divide(new BigDecimal(100), 1, RoundingMode.DOWN);
+                break;
+        }
+
+        return discountPrice.intValue();
+    }
+
+    /**
+     * 프로모션 유효 기간 체크
+     *
+     * @param startDate 프로모션 시작
+     * @param endDate 프로모션 종료
+     * @param now 기준 시각
+     */
+    private void validatePromotionDate(Date startDate, Date endDate, Date now) {
+        if (now.before(startDate)) {
+            throw new CustomException(ErrorCode.NOT_YET_PROMOTION_DATE);
+        } else if (now.after(endDate)) {
+            throw new CustomException(ErrorCode.PROMOTION_EXPIRATION);
+        }
+    }
+
+    /**
+     * 할인된 금액 체크
+     * - 할인된 금액이 기존 상품 금액을 초과하는지 체크한다.
+     *
+     * @param finalPrice 할인된 금액
+     */
+    private void validateDiscountPrice(int finalPrice) {
+        if (finalPrice < 0) {
+            throw new CustomException(ErrorCode.OVER_DISCOUNT);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package antigravity.service;
+
+import antigravity.model.response.ProductAmountResponse;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ProductAmountCombination {
+    private final String signature;  // 정렬된 쿠폰 아이디 리스트 (예: "3,4", 쿠폰 미적용은 "")
+    private final long expiresAt;    // 적용된 프로모션 중 가장 빠른 종료 시각
+    private final ProductAmountResponse response;
+}
@@ -0,0 +1,246 @@
+package antigravity.service;
+
+import antigravity.domain.entity.Product;
+import antigravity.domain.entity.Promotion;
+import antigravity.domain.event.CatalogChangedEvent;
+import antigravity.domain.event.ProductAmountMaterializedEvent;
+import antigravity.error.exception.CustomException;
+import antigravity.model.response.ProductAmountResponse;
+import antigravity.repository.ProductRepository;
+import antigravity.repository.PromotionProductsRepository;
+import antigravity.repository.PromotionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 x 프로모션 조합별 가격 사전 계산.
+ * - promotion_products 에 매핑된 상품마다, 사용 가능한 프로모션의 모든 조합에 대해 가격을 미리 계산해 둔다.
+ * - 상품 아이디 + 정렬된 쿠폰 아이디 시그니처로 조회하며, 없는 조합은 호출 측에서 직접 계산한다.
+ * - 상품, 프로모션 변경 이벤트와 프로모션 시작, 종료 시점에 영향받는 상품만 다시 계산한다.
+ * - 이벤트 없이 DB 가 변경된 경우를 위해 주기적으로 전체를 다시 계산한다.
+ * - 직접 계산하는 가격 조회와 같은 DataSource 를 읽도록 readOnly 트랜잭션에서 계산한다.
+ * - 다시 계산한 뒤 ProductAmountMaterializedEvent 를 발행한다. (할인 상품 목록은 이 결과로 갱신)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ProductAmountMaterializer {
+    private final ProductRepository productRepository;
+    private final PromotionProductsRepository promotionProductsRepository;
+    private final PromotionRepository promotionRepository;
+    private final ProductAmountCalculator productAmountCalculator;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${product.amount.precompute.enabled}")
+    private boolean enabled;    // 가격 조회 시 사전 계산 결과 사용 여부 (할인 상품 목록은 항상 사용)
+
+    private final Map<Integer, Map<String, ProductAmountCombination>> productAmounts = new ConcurrentHashMap<>();
+
+    // 프로모션 시작, 종료 시각 -> 해당 프로모션 아이디 리스트
+    private final ConcurrentSkipListMap<Long, Set<Integer>> promotionBoundaries = new ConcurrentSkipListMap<>();
+
+    /**
+     * 미리 계산된 상품 가격을 조회한다.
+     *
+     * @param productId 상품 아이디
+     * @param couponIds 쿠폰 아이디 리스트
+     * @return 상품 가격 응답 (계산되지 않은 조합이거나 프로모션 기간이 지난 경우 empty)
+     */
+    public Optional<ProductAmountResponse> find(int productId, int[] couponIds) {
+        Map<String, ProductAmountCombination> amounts = productAmounts.get(productId);
+
+        if (!enabled || amounts == null) {
+            return Optional.empty();
+        }
+
+        ProductAmountCombination amount = amounts.get(signature(couponIds));
+
+        if (amount == null || System.currentTimeMillis() > amount.getExpiresAt()) {
+            return Optional.empty();
+        }
+
+        // 캐시된 응답이 호출 측에서 변경되지 않도록 복사해서 응답
+        return Optional.of(amount.getResponse().toBuilder().build());
+    }
+
+    /**
+     * 상품에 대해 미리 계산된 프로모션 조합별 가격 리스트를 조회한다.
+     * - 응답 객체는 공유되므로 호출 측에서 변경하지 않아야 한다.
+     *
+     * @param productId 상품 아이디
+     * @return 조합별 상품 가격 리스트 (사전 계산 대상이 아니면 빈 리스트)
+     */
+    public Collection<ProductAmountCombination> getCombinations(int productId) {
+        Map<String, ProductAmountCombination> amounts = productAmounts.get(productId);
+        return amounts == null ? Collections.emptyList() : amounts.values();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void onApplicationReady() {
+        refreshAll();
+    }
+
+    @Async
+    @EventListener
+    @Transactional(readOnly = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        Set<Integer> productIds = new HashSet<>(event.getProductIds());
+
+        if (!event.getPromotionIds().isEmpty()) {
+            productIds.addAll(promotionProductsRepository.getProductIdsByPromotionIds(event.getPromotionIds()));
+        }
+
+        refreshProducts(productIds);
+    }
+
+    /**
+     * 시작, 종료 시점이 지난 프로모션이 매핑된 상품을 다시 계산한다.
+     */
+    @Scheduled(fixedDelayString = "${product.amount.precompute.boundary-check-millis}")
+    @Transactional(readOnly = true)
+    public void refreshPassedBoundaries() {
+        Set<Integer> promotionIds = new HashSet<>();
+        long now = System.currentTimeMillis();
+
+        Map.Entry<Long, Set<Integer>> boundary;
+        while ((boundary = promotionBoundaries.firstEntry()) != null && boundary.getKey() <= now) {
+            promotionIds.addAll(boundary.getValue());
+            promotionBoundaries.remove(boundary.getKey());
+        }
+
+        if (!promotionIds.isEmpty()) {
+            log.debug("promotion boundary passed. promotionIds : {}", promotionIds);
+            refreshProducts(promotionProductsRepository.getProductIdsByPromotionIds(promotionIds));
+        }
+    }
+
+    /**
+     * 프로모션이 매핑된 모든 상품을 다시 계산한다.
+     * - 변경 이벤트가 누락되거나 DB 를 직접 수정한 경우에도 반영되도록 주기적으로 수행한다.
+     */
+    @Scheduled(fixedDelayString = "${product.amount.precompute.refresh-millis}", initialDelayString = "${product.amount.precompute.refresh-millis}")
+    @Transactional(readOnly = true)
+    public synchronized void refreshAll() {
+        Date now = new Date();
+
+        Map<Integer, List<Promotion>> productPromotions = promotionRepository.getPromotionsGroupByProductId();
+        Set<Integer> productIds = new HashSet<>();
+        Set<Integer> changedProductIds = new HashSet<>(productAmounts.keySet());
+
+        promotionBoundaries.clear();
+
+        for (Product product : productRepository.getPromotionProducts()) {
+            productIds.add(product.getId());
+            materialize(product, productPromotions.getOrDefault(product.getId(), Collections.emptyList()), now);
+        }
+
+        // 삭제된 상품, 프로모션 매핑이 없어진 상품 제거
+        productAmounts.keySet().retainAll(productIds);
+
+        changedProductIds.addAll(productIds);
+        eventPublisher.publishEvent(ProductAmountMaterializedEvent.builder().productIds(changedProductIds).build());
+
+        log.debug("product amount materialized. products : {}", productAmounts.size());
+    }
+
+    /**
+     * 지정한 상품만 다시 계산한다.
+     *
+     * @param productIds 상품 아이디 리스트
+     */
+    @Transactional(readOnly = true)
+    public synchronized void refreshProducts(Collection<Integer> productIds) {
+        Date now = new Date();
+
+        for (Integer productId : productIds) {
+            Optional<Product> product = productRepository.getProduct(productId);
+
+            if (product.isPresent()) {
+                materialize(product.get(), promotionRepository.getPromotionsByProductId(productId), now);
+            } else {
+                productAmounts.remove(productId);
+            }
+        }
+
+        eventPublisher.publishEvent(ProductAmountMaterializedEvent.builder().productIds(productIds).build());
+    }
+
+    /**
+     * 상품에 대해 사용 가능한 프로모션의 모든 조합 가격을 계산해 교체한다.
+     * - 가격 범위를 벗어난 상품, 할인 금액이 상품 금액을 초과하는 조합은 저장하지 않는다. (직접 계산 시 예외 응답)
+     * - 프로모션 수가 최대치를 넘으면 쿠폰 미적용, 전체 적용 조합만 저장한다.
+     */
+    private void materialize(Product product, List<Promotion> promotionList, Date now) {
+        registerBoundaries(promotionList, now);
+
+        try {
+            productAmountCalculator.validateProductPrice(product.getPrice());
+        } catch (CustomException e) {
+            productAmounts.remove(product.getId());
+            return;
+        }
+
+        Map<String, ProductAmountCombination> amounts = productAmountCalculator.calculateCombinations(product, promotionList, now).stream()
+                .collect(Collectors.toMap(ProductAmountCombination::getSignature, Function.identity()));
+
+        productAmounts.put(product.getId(), Collections.unmodifiableMap(amounts));
+    }
+
+    /**
+     * 아직 지나지 않은 프로모션 시작, 종료 시각을 등록한다.
+     */
+    private void registerBoundaries(List<Promotion> promotionList, Date now) {
+        for (Promotion promotion : promotionList) {
+            long started = promotion.getUse_started_at().getTime();
+            long ended = promotion.getUse_ended_at().getTime() + 1; // 종료 시각이 지난 직후부터 만료
+
+            for (long boundary : new long[]{started, ended}) {
+                if (boundary > now.getTime()) {
+                    promotionBoundaries.computeIfAbsent(boundary, key -> ConcurrentHashMap.newKeySet()).add(promotion.getId());
+                }
+            }
+        }
+    }
+
+    /**
+     * 쿠폰 아이디 리스트를 정렬해 조회 키로 만든다.
+     */
+    private String signature(int[] couponIds) {
+        if (couponIds == null || couponIds.length == 0) {
+            return "";
+        }
+
+        int[] sorted = couponIds.clone();
+        Arrays.sort(sorted);
+
+        StringBuilder signature = new StringBuilder();
+        for (int couponId : sorted) {
+            signature.append(signature.length() == 0 ? "" : ",").append(couponId);
+        }
+
+        return signature.toString();
+    }
+}
@@ -0,0 +1,130 @@
+package antigravity.service;
+
+import antigravity.model.response.SaleProductResponse;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 할인 상품 정렬 인덱스 (확정 가격, 상품 아이디 오름차순).
+ * - 불변 스냅샷으로, 갱신 시에는 변경된 상품만 병합한 새 인덱스를 만들어 교체한다.
+ * - 커서(이전 페이지 마지막 확정 가격, 상품 아이디) 위치를 이진 탐색하므로 페이지 깊이와 무관하게 조회 비용이 같다.
+ * - 적용된 프로모션이 종료된 상품은 다시 계산되기 전이라도 조회 시 제외한다.
+ */
+public class SaleProductIndex {
+    private static final Comparator<Entry> ORDER = Comparator
+            .comparingInt((Entry entry) -> entry.getProduct().getFinalPrice())
+            .thenComparingInt(entry -> entry.getProduct().getProductId());
+
+    private static final SaleProductIndex EMPTY = new SaleProductIndex(new Entry[0]);
+
+    private final Entry[] entries;
+
+    private SaleProductIndex(Entry[] entries) {
+        this.entries = entries;
+    }
+
+    public static SaleProductIndex empty() {
+        return EMPTY;
+    }
+
+    public static SaleProductIndex of(List<Entry> entries) {
+        return EMPTY.update(Collections.emptySet(), entries);
+    }
+
+    /**
+     * 지정한 상품만 교체한 새 인덱스를 만든다.
+     * - 기존 인덱스는 이미 정렬되어 있으므로, 변경된 상품만 정렬해 병합한다.
+     *
+     * @param productIds 교체할 상품 아이디 리스트 (entries 에 없으면 제거)
+     * @param updated 새로 계산된 할인 상품 리스트
+     * @return 새 인덱스
+     */
+    public SaleProductIndex update(Collection<Integer> productIds, List<Entry> updated) {
+        Set<Integer> replaced = new HashSet<>(productIds);
+
+        Entry[] added = updated.toArray(new Entry[0]);
+        Arrays.sort(added, ORDER);
+
+        List<Entry> merged = new ArrayList<>(entries.length + added.length);
+        int i = 0;
+        int j = 0;
+
+        while (i < entries.length || j < added.length) {
+            if (i < entries.length && replaced.contains(entries[i].getProduct().getProductId())) {
+                i++;
+            } else if (j >= added.length || (i < entries.length && ORDER.compare(entries[i], added[j]) <= 0)) {
+                merged.add(entries[i++]);
+            } else {
+                merged.add(added[j++]);
+            }
+        }
+
+        return new SaleProductIndex(merged.toArray(new Entry[0]));
+    }
+
+    /**
+     * 커서 다음 위치부터 size 개의 상품을 조회한다.
+     *
+     * @param cursorPrice 이전 페이지 마지막 상품의 확정 가격 (첫 페이지는 null)
+     * @param cursorId 이전 페이지 마지막 상품 아이디 (첫 페이지는 null)
+     * @param size 조회 개수
+     * @param now 기준 시각 (적용된 프로모션이 이미 종료된 상품은 제외)
+     * @return 할인 상품 리스트
+     */
+    public List<SaleProductResponse> page(Integer cursorPrice, Integer cursorId, int size, long now) {
+        List<SaleProductResponse> products = new ArrayList<>(Math.min(size, entries.length));
+
+        for (int i = cursorPrice == null ? 0 : indexAfter(cursorPrice, cursorId); i < entries.length && products.size() < size; i++) {
+            if (now <= entries[i].getExpiresAt()) {
+                products.add(entries[i].getProduct());
+            }
+        }
+
+        return products;
+    }
+
+    public int size() {
+        return entries.length;
+    }
+
+    /**
+     * (cursorPrice, cursorId) 보다 뒤에 정렬되는 첫 위치
+     */
+    private int indexAfter(int cursorPrice, int cursorId) {
+        int low = 0;
+        int high = entries.length;
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            SaleProductResponse product = entries[mid].getProduct();
+
+            int compare = product.getFinalPrice() != cursorPrice
+                    ? Integer.compare(product.getFinalPrice(), cursorPrice)
+                    : Integer.compare(product.getProductId(), cursorId);
+
+            if (compare <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Entry {
+        private final SaleProductResponse product;
+        private final long expiresAt;   // 적용된 프로모션 중 가장 빠른 종료 시각
+    }
+}
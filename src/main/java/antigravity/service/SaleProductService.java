@@ -0,0 +1,99 @@
+package antigravity.service;
+
+import antigravity.domain.event.ProductAmountMaterializedEvent;
+import antigravity.error.ErrorCode;
+import antigravity.error.exception.CustomException;
+import antigravity.model.request.SaleProductRequest;
+import antigravity.model.response.SaleProductPageResponse;
+import antigravity.model.response.SaleProductResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 할인 상품 목록.
+ * - ProductAmountMaterializer 가 미리 계산한 조합 가격으로 인덱스를 만들고, 다시 계산된 상품만 교체한다.
+ *   (프로모션 조회, 조합 계산을 따로 하지 않고, 프로모션 시작, 종료 시점 반영도 사전 계산 쪽을 따른다.)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class SaleProductService {
+    private final ProductAmountMaterializer productAmountMaterializer;
+
+    @Value("${product.sale.default-page-size}")
+    private int defaultPageSize;    // 기본 페이지 크기
+
+    @Value("${product.sale.maximum-page-size}")
+    private int maximumPageSize;    // 최대 페이지 크기
+
+    private volatile SaleProductIndex index = SaleProductIndex.empty();
+
+    /**
+     * 할인 상품 리스트를 확정 가격 오름차순으로 조회한다.
+     * - 커서(이전 페이지 마지막 확정 가격, 상품 아이디) 기반으로 페이지를 나눈다.
+     *
+     * @param request 할인 상품 요청(커서, 페이지 크기)
+     * @return 할인 상품 페이지 응답
+     */
+    public SaleProductPageResponse getSaleProducts(SaleProductRequest request) {
+        log.debug("{}", request);
+
+        if ((request.getCursorPrice() == null) != (request.getCursorId() == null)) {
+            // 커서는 확정 가격과 상품 아이디를 함께 요청해야 한다.
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+
+        int size = request.getSize() == null ? defaultPageSize : Math.min(Math.max(request.getSize(), 1), maximumPageSize);
+
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        List<SaleProductResponse> products = index.page(request.getCursorPrice(), request.getCursorId(), size + 1, System.currentTimeMillis());
+        boolean hasNext = products.size() > size;
+
+        if (hasNext) {
+            products = products.subList(0, size);
+        }
+
+        SaleProductResponse last = products.isEmpty() ? null : products.get(products.size() - 1);
+
+        return SaleProductPageResponse.builder()
+                .products(products)
+                .hasNext(hasNext)
+                .nextCursorPrice(hasNext ? last.getFinalPrice() : null)
+                .nextCursorId(hasNext ? last.getProductId() : null)
+                .build();
+    }
+
+    /**
+     * 다시 계산된 상품만 할인 상품 인덱스에서 교체한다.
+     * - 상품마다 쿠폰을 1개 이상 적용한 유효한 조합 중 확정 가격이 가장 낮은 조합으로 정렬한다.
+     * - 모두 적용하면 할인 금액이 상품 금액을 초과하더라도, 유효한 조합이 있으면 목록에 포함한다.
+     * - 가격 범위를 벗어나거나 유효한 조합이 없는 상품은 제외한다.
+     */
+    @EventListener
+    public synchronized void onProductAmountMaterialized(ProductAmountMaterializedEvent event) {
+        List<SaleProductIndex.Entry> entries = new ArrayList<>();
+
+        for (Integer productId : event.getProductIds()) {
+            productAmountMaterializer.getCombinations(productId).stream()
+                    .filter(combination -> !combination.getSignature().isEmpty())
+                    .min(Comparator.comparingInt(combination -> combination.getResponse().getFinalPrice()))
+                    .ifPresent(best -> entries.add(new SaleProductIndex.Entry(SaleProductResponse.builder()
+                            .productId(productId)
+                            .name(best.getResponse().getName())
+                            .originPrice(best.getResponse().getOriginPrice())
+                            .discountPrice(best.getResponse().getDiscountPrice())
+                            .finalPrice(best.getResponse().getFinalPrice())
+                            .build(), best.getExpiresAt())));
+        }
+
+        index = index.update(event.getProductIds(), entries);
+        log.debug("sale product index updated. products : {}, size : {}", event.getProductIds().size(), index.size());
+    }
+}
@@ -33,3 +33,17 @@ CREATE TABLE promotion_products
     PRIMARY KEY (id)
 );
 
+
+DROP TABLE price_quote_audit IF EXISTS;
+
+CREATE TABLE price_quote_audit
+(
+    id             BIGINT NOT NULL AUTO_INCREMENT,
+    product_id     INTEGER,
+    coupon_ids     VARCHAR(255),
+    origin_price   INTEGER,
+    discount_price INTEGER,
+    final_price    INTEGER,
+    quoted_at      TIMESTAMP,
+    PRIMARY KEY (id)
+);
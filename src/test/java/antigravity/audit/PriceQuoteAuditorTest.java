@@ -0,0 +1,97 @@
+package antigravity.audit;
+
+import antigravity.domain.type.BackpressureType;
+import antigravity.model.request.ProductInfoRequest;
+import antigravity.model.response.ProductAmountResponse;
+import antigravity.repository.PriceQuoteAuditRepository;
+import antigravity.service.ProductService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest
+@DisplayName("가격 산정 감사 로그 기록 테스트")
+class PriceQuoteAuditorTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("가격 산정 결과가 비동기로 기록됨")
+    void audit_recorded_asynchronously() throws InterruptedException {
+        // given
+        int before = auditCount();
+        ProductInfoRequest request = ProductInfoRequest.builder()
+                .productId(1)
+                .build();
+
+        // when
+        productService.getProductAmount(request);
+        productService.getProductAmount(request);
+
+        // then
+        long deadline = System.currentTimeMillis() + 5000;
+        while (auditCount() < before + 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(auditCount()).isEqualTo(before + 2);
+    }
+
+    @Test
+    @DisplayName("insert 재시도 후에도 실패한 건수 카운트")
+    void failed_insert_counted() throws InterruptedException {
+        // given
+        PriceQuoteAuditRepository failingRepository = mock(PriceQuoteAuditRepository.class);
+        willThrow(new DataAccessResourceFailureException("audit db down")).given(failingRepository).saveAll(anyList());
+
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PriceQuoteAuditor auditor = new PriceQuoteAuditor(failingRepository, meterRegistry);
+        ReflectionTestUtils.setField(auditor, "enabled", true);
+        ReflectionTestUtils.setField(auditor, "bufferSize", 16);
+        ReflectionTestUtils.setField(auditor, "batchSize", 16);
+        ReflectionTestUtils.setField(auditor, "backpressure", BackpressureType.DROP);
+        ReflectionTestUtils.setField(auditor, "insertRetries", 2);
+        ReflectionTestUtils.setField(auditor, "idleMillis", 1L);
+        auditor.start();
+
+        ProductInfoRequest request = ProductInfoRequest.builder().productId(1).build();
+        ProductAmountResponse response = ProductAmountResponse.builder().originPrice(10000).finalPrice(10000).build();
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            auditor.publish(request, response);
+        }
+        auditor.stop();
+
+        // then
+        FunctionCounter failed = meterRegistry.get("product.audit.failed").functionCounter();
+        assertAll(
+                () -> assertThat(failed.count()).isEqualTo(3),
+                () -> assertThat(meterRegistry.get("product.audit.dropped").functionCounter().count()).isEqualTo(0),
+                // 최초 시도 + 재시도 2회
+                () -> verify(failingRepository, atLeast(3)).saveAll(anyList())
+        );
+    }
+
+    private int auditCount() {
+        return jdbcTemplate.queryForObject("SELECT count(id) FROM price_quote_audit", Integer.class);
+    }
+}
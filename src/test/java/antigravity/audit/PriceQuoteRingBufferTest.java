@@ -0,0 +1,194 @@
+package antigravity.audit;
+
+import antigravity.domain.entity.PriceQuoteAudit;
+import antigravity.domain.type.BackpressureType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("가격 산정 감사 로그 ring buffer 테스트")
+class PriceQuoteRingBufferTest {
+
+    @Test
+    @DisplayName("발행 순서대로 소비")
+    void drain_in_publish_order() {
+        // given
+        PriceQuoteRingBuffer ringBuffer = new PriceQuoteRingBuffer(4, BackpressureType.DROP, 0L);
+        ringBuffer.publish(1, new int[]{1, 2}, 215000, 0, 215000, 1L);
+        ringBuffer.publish(2, new int[]{3}, 100000, 50000, 50000, 2L);
+
+        // when
+        List<PriceQuoteAudit> audits = new ArrayList<>();
+        int count = ringBuffer.drain(10, audit -> audits.add(audit.toBuilder().build()));
+
+        // then
+        assertAll(
+                () -> assertThat(count).isEqualTo(2),
+                () -> assertThat(audits).extracting(PriceQuoteAudit::getProductId).containsExactly(1, 2),
+                () -> assertThat(audits.get(1).getFinalPrice()).isEqualTo(50000),
+                () -> assertThat(ringBuffer.size()).isEqualTo(0)
+        );
+    }
+
+    @Test
+    @DisplayName("DROP - 버퍼가 가득 차면 버리고 카운트")
+    void drop_when_full() {
+        // given
+        PriceQuoteRingBuffer ringBuffer = new PriceQuoteRingBuffer(2, BackpressureType.DROP, 0L);
+        ringBuffer.publish(1, null, 10000, 0, 10000, 1L);
+        ringBuffer.publish(2, null, 10000, 0, 10000, 2L);
+
+        // when
+        boolean published = ringBuffer.publish(3, null, 10000, 0, 10000, 3L);
+
+        // then
+        assertAll(
+                () -> assertFalse(published),
+                () -> assertThat(ringBuffer.dropped()).isEqualTo(1),
+                () -> assertThat(ringBuffer.size()).isEqualTo(2)
+        );
+    }
+
+    @Test
+    @DisplayName("BLOCK - 버퍼가 가득 차면 소비될 때까지 대기")
+    void block_when_full() throws Exception {
+        // given
+        PriceQuoteRingBuffer ringBuffer = new PriceQuoteRingBuffer(1, BackpressureType.BLOCK, TimeUnit.SECONDS.toNanos(5));
+        ringBuffer.publish(1, null, 10000, 0, 10000, 1L);
+
+        // when
+        CompletableFuture<Boolean> blocked = CompletableFuture.supplyAsync(() -> ringBuffer.publish(2, null, 10000, 0, 10000, 2L));
+        Thread.sleep(50);
+        boolean doneBeforeDrain = blocked.isDone();
+
+        List<Integer> productIds = new ArrayList<>();
+        ringBuffer.drain(1, audit -> productIds.add(audit.getProductId()));
+
+        // then
+        assertAll(
+                () -> assertFalse(doneBeforeDrain),
+                () -> assertTrue(blocked.get(5, TimeUnit.SECONDS)),
+                () -> assertThat(productIds).containsExactly(1),
+                () -> assertThat(ringBuffer.dropped()).isEqualTo(0)
+        );
+    }
+
+    @Test
+    @DisplayName("실패 테스트 - 버퍼 크기가 2의 거듭제곱이 아닌 경우")
+    void capacity_not_power_of_two() {
+        assertThrows(IllegalArgumentException.class, () -> new PriceQuoteRingBuffer(3, BackpressureType.DROP, 0L));
+    }
+
+    @Test
+    @DisplayName("BLOCK - 최대 대기 시간이 지나면 버리고 카운트")
+    void block_timeout_when_not_consumed() {
+        // given
+        PriceQuoteRingBuffer ringBuffer = new PriceQuoteRingBuffer(1, BackpressureType.BLOCK, TimeUnit.MILLISECONDS.toNanos(20));
+        ringBuffer.publish(1, null, 10000, 0, 10000, 1L);
+
+        // when
+        boolean published = ringBuffer.publish(2, null, 10000, 0, 10000, 2L);
+
+        // then
+        assertAll(
+                () -> assertFalse(published),
+                () -> assertThat(ringBuffer.dropped()).isEqualTo(1),
+                () -> assertThat(ringBuffer.size()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("DROP - 다중 생산자 동시 발행 시 발행된 건은 정확히 한 번, 생산자별 순서대로 소비")
+    void concurrent_producers_drop() throws Exception {
+        assertConcurrentPublish(new PriceQuoteRingBuffer(8, BackpressureType.DROP, 0L));
+    }
+
+    @Test
+    @DisplayName("BLOCK - 다중 생산자 동시 발행 시 버리지 않고 생산자별 순서대로 소비")
+    void concurrent_producers_block() throws Exception {
+        PriceQuoteRingBuffer ringBuffer = new PriceQuoteRingBuffer(8, BackpressureType.BLOCK, TimeUnit.SECONDS.toNanos(10));
+
+        assertConcurrentPublish(ringBuffer);
+        assertThat(ringBuffer.dropped()).isEqualTo(0);
+    }
+
+    /**
+     * 생산자마다 productId = 생산자 번호, quotedAt = 생산자별 발행 순번으로 발행하고,
+     * 단일 소비자가 소비한 결과를 검증한다.
+     */
+    private void assertConcurrentPublish(PriceQuoteRingBuffer ringBuffer) throws Exception {
+        // given
+        int producers = 4;
+        int attemptsPerProducer = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean producing = new AtomicBoolean(true);
+
+        try {
+            // when
+            List<Future<Integer>> publishedCounts = new ArrayList<>();
+            for (int producer = 0; producer < producers; producer++) {
+                int productId = producer;
+                publishedCounts.add(executor.submit(() -> {
+                    start.await();
+                    int published = 0;
+                    for (int sequence = 0; sequence < attemptsPerProducer; sequence++) {
+                        if (ringBuffer.publish(productId, null, 10000, 0, 10000, sequence)) {
+                            published++;
+                        }
+                    }
+                    return published;
+                }));
+            }
+
+            Future<List<long[]>> drained = executor.submit(() -> {
+                List<long[]> records = new ArrayList<>();
+                while (producing.get() || ringBuffer.size() > 0) {
+                    if (ringBuffer.drain(64, audit -> records.add(new long[]{audit.getProductId(), audit.getQuotedAt()})) == 0) {
+                        Thread.yield();
+                    }
+                }
+                return records;
+            });
+
+            start.countDown();
+            int published = 0;
+            for (Future<Integer> publishedCount : publishedCounts) {
+                published += publishedCount.get(30, TimeUnit.SECONDS);
+            }
+            producing.set(false);
+            List<long[]> records = drained.get(30, TimeUnit.SECONDS);
+
+            // then
+            long[] lastSequence = new long[producers];
+            Arrays.fill(lastSequence, -1L);
+            for (long[] record : records) {
+                int producer = (int) record[0];
+                assertThat(record[1]).as("producer %d sequence", producer).isGreaterThan(lastSequence[producer]);
+                lastSequence[producer] = record[1];
+            }
+
+            int totalPublished = published;
+            assertAll(
+                    () -> assertThat(records).hasSize(totalPublished),
+                    () -> assertThat(totalPublished + ringBuffer.dropped()).isEqualTo((long) producers * attemptsPerProducer),
+                    () -> assertThat(ringBuffer.size()).isEqualTo(0)
+            );
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package antigravity.benchmark;
+
+import antigravity.converter.ProductAmountBinaryHttpMessageConverter;
+import antigravity.model.response.ProductAmountResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 가격 응답 인코딩 벤치마크 (JSON vs 바이너리).
+ * - 컨트롤러에서 사용하는 것과 같은 HttpMessageConverter 로 응답 본문을 쓰는 비용을 비교한다.
+ * - 실행 : ./gradlew benchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductAmountEncodingBenchmark {
+
+    private final MappingJackson2HttpMessageConverter jsonConverter = new MappingJackson2HttpMessageConverter();
+    private final ProductAmountBinaryHttpMessageConverter binaryConverter = new ProductAmountBinaryHttpMessageConverter();
+
+    private ProductAmountResponse response;
+
+    @Setup
+    public void setUp() {
+        response = ProductAmountResponse.builder()
+                .name("피팅노드상품2")
+                .originPrice(100000)
+                .discountPrice(60000)
+                .finalPrice(40000)
+                .build();
+    }
+
+    @Benchmark
+    public byte[] json() throws IOException {
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+        jsonConverter.write(response, MediaType.APPLICATION_JSON, outputMessage);
+        return outputMessage.getBodyAsBytes();
+    }
+
+    @Benchmark
+    public byte[] binary() throws IOException {
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+        binaryConverter.write(response, ProductAmountBinaryHttpMessageConverter.MEDIA_TYPE, outputMessage);
+        return outputMessage.getBodyAsBytes();
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        ProductAmountEncodingBenchmark benchmark = new ProductAmountEncodingBenchmark();
+        benchmark.setUp();
+
+        System.out.println("json bytes   : " + benchmark.json().length);
+        System.out.println("binary bytes : " + benchmark.binary().length);
+
+        new Runner(new OptionsBuilder()
+                .include(ProductAmountEncodingBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,101 @@
+package antigravity.config;
+
+import antigravity.model.response.ProductAmountResponse;
+import antigravity.service.ProductAmountMaterializer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest
+@ActiveProfiles({"dev", "routing"})
+@DisplayName("읽기 / 쓰기 DataSource 분기 테스트")
+class DataSourceConfigTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    @Qualifier("readDataSource")
+    private DataSource readDataSource;
+
+    @Autowired
+    private ProductAmountMaterializer productAmountMaterializer;
+
+    @Test
+    @DisplayName("readOnly 트랜잭션은 read pool, 그 외는 primary pool 사용")
+    void route_by_read_only() {
+        // given
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+
+        // when
+        String readUrl = readOnly.execute(status -> connectionUrl());
+        String writeUrl = readWrite.execute(status -> connectionUrl());
+        String nonTransactionalUrl = connectionUrl();
+
+        // then
+        assertAll(
+                () -> assertThat(readUrl).contains("readdb"),
+                () -> assertThat(writeUrl).contains("testdb"),
+                () -> assertThat(nonTransactionalUrl).contains("testdb")
+        );
+    }
+
+    @Test
+    @DisplayName("pool 별 커넥션 지표 노출")
+    void pool_metrics_per_route() {
+        assertAll(
+                () -> assertThat(meterRegistry.find("jdbc.connections.max").tag("name", "primary").gauge()).isNotNull(),
+                () -> assertThat(meterRegistry.find("jdbc.connections.max").tag("name", "read").gauge()).isNotNull()
+        );
+    }
+
+    @Test
+    @DisplayName("가격 사전 계산은 가격 조회와 같은 read pool 에서 계산")
+    void materialize_from_read_pool() {
+        // given
+        // read DB 에만 있는 프로모션 (상품4 : 50,000 - 1,000원 할인 = 49,000 -> 40,000)
+        JdbcTemplate readJdbcTemplate = new JdbcTemplate(readDataSource);
+        readJdbcTemplate.update("INSERT INTO promotion VALUES (200, 'COUPON', '1000원 할인쿠폰', 'WON', 1000, '2000-01-01', '2999-12-31')");
+        readJdbcTemplate.update("INSERT INTO promotion_products VALUES (200, 200, 4)");
+
+        try {
+            // when
+            productAmountMaterializer.refreshProducts(Collections.singletonList(4));
+            Optional<ProductAmountResponse> amount = productAmountMaterializer.find(4, new int[]{200});
+
+            // then
+            assertThat(amount).hasValueSatisfying(response -> assertThat(response.getFinalPrice()).isEqualTo(40000));
+        } finally {
+            readJdbcTemplate.update("DELETE FROM promotion_products WHERE id = 200");
+            readJdbcTemplate.update("DELETE FROM promotion WHERE id = 200");
+            productAmountMaterializer.refreshProducts(Collections.singletonList(4));
+        }
+    }
+
+    private String connectionUrl() {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> connection.getMetaData().getURL());
+    }
+}
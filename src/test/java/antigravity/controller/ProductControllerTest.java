@@ -0,0 +1,112 @@
+package antigravity.controller;
+
+import antigravity.converter.ProductAmountBinaryHttpMessageConverter;
+import antigravity.error.ErrorCode;
+import antigravity.error.ErrorResponse;
+import antigravity.error.exception.CustomException;
+import antigravity.model.response.ProductAmountResponse;
+import antigravity.service.ProductService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("상품 가격 응답 인코딩 협상 테스트")
+class ProductControllerTest {
+
+    private final ProductAmountBinaryHttpMessageConverter converter = new ProductAmountBinaryHttpMessageConverter();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ProductService productService;
+
+    private final ProductAmountResponse response = ProductAmountResponse.builder()
+            .name("피팅노드상품")
+            .originPrice(215000)
+            .discountPrice(62250)
+            .finalPrice(150000)
+            .build();
+
+    @Test
+    @DisplayName("Accept 미지정 - JSON 응답")
+    void get_product_amount_default_json() throws Exception {
+        // given
+        given(productService.getProductAmount(any())).willReturn(response);
+
+        // when, then
+        mockMvc.perform(get("/products/amount"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.name").value("피팅노드상품"))
+                .andExpect(jsonPath("$.originPrice").value(215000))
+                .andExpect(jsonPath("$.discountPrice").value(62250))
+                .andExpect(jsonPath("$.finalPrice").value(150000));
+    }
+
+    @Test
+    @DisplayName("Accept 바이너리 - 바이너리 응답")
+    void get_product_amount_binary() throws Exception {
+        // given
+        given(productService.getProductAmount(any())).willReturn(response);
+
+        // when
+        MvcResult result = mockMvc.perform(get("/products/amount")
+                        .accept(ProductAmountBinaryHttpMessageConverter.MEDIA_TYPE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(ProductAmountBinaryHttpMessageConverter.MEDIA_TYPE))
+                .andReturn();
+
+        byte[] body = result.getResponse().getContentAsByteArray();
+        Object decoded = converter.read(ProductAmountResponse.class, new MockHttpInputMessage(body));
+
+        // then
+        assertAll(
+                () -> assertThat(decoded).isEqualTo(response),
+                () -> assertThat(result.getResponse().getContentLength()).isEqualTo(body.length)
+        );
+    }
+
+    @Test
+    @DisplayName("Accept 바이너리 - 오류 응답도 바이너리 응답")
+    void get_product_amount_binary_error() throws Exception {
+        // given
+        given(productService.getProductAmount(any())).willThrow(new CustomException(ErrorCode.PROMOTION_EXPIRATION));
+
+        // when
+        MvcResult result = mockMvc.perform(get("/products/amount")
+                        .accept(ProductAmountBinaryHttpMessageConverter.MEDIA_TYPE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(ProductAmountBinaryHttpMessageConverter.MEDIA_TYPE))
+                .andExpect(header().exists("Content-Length"))
+                .andReturn();
+
+        ErrorResponse decoded = (ErrorResponse) converter.read(ErrorResponse.class,
+                new MockHttpInputMessage(result.getResponse().getContentAsByteArray()));
+
+        // then
+        assertAll(
+                () -> assertThat(decoded.getCode()).isEqualTo(ErrorCode.PROMOTION_EXPIRATION.getCode()),
+                () -> assertThat(decoded.getMessage()).isEqualTo(ErrorCode.PROMOTION_EXPIRATION.getMessage())
+        );
+    }
+}
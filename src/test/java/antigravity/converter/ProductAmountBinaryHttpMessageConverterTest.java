@@ -0,0 +1,110 @@
+package antigravity.converter;
+
+import antigravity.error.ErrorCode;
+import antigravity.error.ErrorResponse;
+import antigravity.model.response.ProductAmountResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("상품 가격 바이너리 인코딩 테스트")
+class ProductAmountBinaryHttpMessageConverterTest {
+
+    private final ProductAmountBinaryHttpMessageConverter converter = new ProductAmountBinaryHttpMessageConverter();
+
+    @Test
+    @DisplayName("상품 가격 응답 인코딩 후 디코딩")
+    void product_amount_round_trip() throws IOException {
+        // given
+        ProductAmountResponse response = ProductAmountResponse.builder()
+                .name("피팅노드상품2")
+                .originPrice(100000)
+                .discountPrice(60000)
+                .finalPrice(40000)
+                .build();
+
+        // when
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+        converter.write(response, ProductAmountBinaryHttpMessageConverter.MEDIA_TYPE, outputMessage);
+        byte[] bytes = outputMessage.getBodyAsBytes();
+
+        Object decoded = converter.read(ProductAmountResponse.class, new MockHttpInputMessage(bytes));
+
+        // then
+        assertAll(
+                () -> assertThat(decoded).isEqualTo(response),
+                () -> assertThat(outputMessage.getHeaders().getContentLength()).isEqualTo(bytes.length),
+                () -> assertThat(bytes.length).isLessThan(new ObjectMapper().writeValueAsBytes(response).length)
+        );
+    }
+
+    @Test
+    @DisplayName("오류 응답 인코딩 후 디코딩")
+    void error_round_trip() throws IOException {
+        // given
+        ErrorResponse response = new ErrorResponse(ErrorCode.PROMOTION_EXPIRATION);
+
+        // when
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+        converter.write(response, ProductAmountBinaryHttpMessageConverter.MEDIA_TYPE, outputMessage);
+
+        ErrorResponse decoded = (ErrorResponse) converter.read(ErrorResponse.class, new MockHttpInputMessage(outputMessage.getBodyAsBytes()));
+
+        // then
+        assertAll(
+                () -> assertThat(decoded.getCode()).isEqualTo(ErrorCode.PROMOTION_EXPIRATION.getCode()),
+                () -> assertThat(decoded.getMessage()).isEqualTo(ErrorCode.PROMOTION_EXPIRATION.getMessage())
+        );
+    }
+
+    @Test
+    @DisplayName("null, 4 byte 문자열 인코딩")
+    void null_and_supplementary_string() throws IOException {
+        // given
+        ProductAmountResponse nullName = ProductAmountResponse.builder().originPrice(10000).finalPrice(10000).build();
+        ProductAmountResponse emojiName = ProductAmountResponse.builder().name("상품😀").originPrice(10000).finalPrice(10000).build();
+
+        // when
+        Object decodedNullName = converter.read(ProductAmountResponse.class,
+                new MockHttpInputMessage(ProductAmountBinaryHttpMessageConverter.encode(nullName)));
+        Object decodedEmojiName = converter.read(ProductAmountResponse.class,
+                new MockHttpInputMessage(ProductAmountBinaryHttpMessageConverter.encode(emojiName)));
+
+        // then
+        assertAll(
+                () -> assertThat(decodedNullName).isEqualTo(nullName),
+                () -> assertThat(decodedEmojiName).isEqualTo(emojiName)
+        );
+    }
+
+    @Test
+    @DisplayName("실패 테스트 - 잘못된 바이너리")
+    void read_failure_invalid_binary() {
+        assertAll(
+                () -> assertThrows(HttpMessageNotReadableException.class,
+                        () -> converter.read(ProductAmountResponse.class, new MockHttpInputMessage(new byte[]{1, 0, 0}))),
+                () -> assertThrows(HttpMessageNotReadableException.class,
+                        () -> converter.read(ProductAmountResponse.class, new MockHttpInputMessage(new byte[]{9})))
+        );
+    }
+
+    @Test
+    @DisplayName("실패 테스트 - 요청한 타입과 인코딩된 타입이 다른 경우")
+    void read_failure_type_mismatch() {
+        // given
+        byte[] errorBytes = ProductAmountBinaryHttpMessageConverter.encode(new ErrorResponse(ErrorCode.PROMOTION_EXPIRATION));
+
+        // when, then
+        assertThrows(HttpMessageNotReadableException.class,
+                () -> converter.read(ProductAmountResponse.class, new MockHttpInputMessage(errorBytes)));
+    }
+}
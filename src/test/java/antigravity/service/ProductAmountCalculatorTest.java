@@ -0,0 +1,31 @@
+package antigravity.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("상품 가격 계산기 설정 테스트")
+class ProductAmountCalculatorTest {
+
+    @Test
+    @DisplayName("실패 테스트 - 조합 계산 최대 프로모션 수가 범위를 벗어난 경우")
+    void maximum_promotions_out_of_range() {
+        assertAll(
+                () -> assertThrows(IllegalStateException.class, () -> calculator(-1).validateMaximumPromotions()),
+                () -> assertThrows(IllegalStateException.class, () -> calculator(17).validateMaximumPromotions()),
+                () -> assertThrows(IllegalStateException.class, () -> calculator(31).validateMaximumPromotions()),
+                () -> assertDoesNotThrow(() -> calculator(0).validateMaximumPromotions()),
+                () -> assertDoesNotThrow(() -> calculator(16).validateMaximumPromotions())
+        );
+    }
+
+    private ProductAmountCalculator calculator(int maximumPromotions) {
+        ProductAmountCalculator calculator = new ProductAmountCalculator();
+        ReflectionTestUtils.setField(calculator, "maximumPromotions", maximumPromotions);
+        return calculator;
+    }
+}
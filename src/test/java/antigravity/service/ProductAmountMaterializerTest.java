@@ -0,0 +1,98 @@
+package antigravity.service;
+
+import antigravity.model.response.ProductAmountResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.transaction.AfterTransaction;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import static antigravity.service.PromotionFixture.CODE_10_PERCENT;
+import static antigravity.service.PromotionFixture.COUPON_5000_WON;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest
+@Transactional
+@DisplayName("상품 가격 사전 계산 테스트")
+class ProductAmountMaterializerTest {
+
+    @Autowired
+    private ProductAmountMaterializer productAmountMaterializer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // 상품2 : 100,000 / 할인금액 : 5,000 / 할인 % : 10%
+        PromotionFixture.insertPromotions(jdbcTemplate);
+        PromotionFixture.mapPromotion(jdbcTemplate, COUPON_5000_WON, 2);
+        PromotionFixture.mapPromotion(jdbcTemplate, CODE_10_PERCENT, 2);
+
+        productAmountMaterializer.refreshProducts(Collections.singletonList(2));
+    }
+
+    @AfterTransaction
+    void tearDown() {
+        // 롤백된 데이터로 계산된 가격이 다른 테스트에 남지 않도록 다시 계산
+        productAmountMaterializer.refreshAll();
+    }
+
+    @Test
+    @DisplayName("성공 테스트 - 쿠폰 순서와 무관하게 조합 가격 조회")
+    void find_success_two_coupons() {
+        // when
+        Optional<ProductAmountResponse> response = productAmountMaterializer.find(2, new int[]{CODE_10_PERCENT, COUPON_5000_WON});
+
+        // then
+        assertAll(
+                () -> assertThat(response).isPresent(),
+                () -> assertThat(response.get().getOriginPrice()).isEqualTo(100000),
+                () -> assertThat(response.get().getDiscountPrice()).isEqualTo(15000),
+                () -> assertThat(response.get().getFinalPrice()).isEqualTo(80000)
+        );
+    }
+
+    @Test
+    @DisplayName("성공 테스트 - 쿠폰 미요청")
+    void find_success_no_coupon() {
+        // when
+        Optional<ProductAmountResponse> response = productAmountMaterializer.find(2, null);
+
+        // then
+        assertAll(
+                () -> assertThat(response).isPresent(),
+                () -> assertThat(response.get().getFinalPrice()).isEqualTo(100000)
+        );
+    }
+
+    @Test
+    @DisplayName("계산되지 않은 조합 - 기간이 지난 쿠폰, 중복 쿠폰")
+    void find_empty_not_materialized() {
+        assertAll(
+                () -> assertThat(productAmountMaterializer.find(2, new int[]{3})).isEmpty(),
+                () -> assertThat(productAmountMaterializer.find(2, new int[]{COUPON_5000_WON, COUPON_5000_WON})).isEmpty(),
+                () -> assertThat(productAmountMaterializer.find(7, null)).isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("조회 결과를 변경해도 미리 계산된 가격은 유지")
+    void find_returns_copy() {
+        // given
+        productAmountMaterializer.find(2, new int[]{COUPON_5000_WON}).get().setFinalPrice(0);
+
+        // when
+        Optional<ProductAmountResponse> response = productAmountMaterializer.find(2, new int[]{COUPON_5000_WON});
+
+        // then
+        assertThat(response.get().getFinalPrice()).isEqualTo(90000);
+    }
+}
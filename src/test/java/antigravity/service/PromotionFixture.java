@@ -0,0 +1,32 @@
+package antigravity.service;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 서비스 테스트용 프로모션 데이터.
+ * - 기본 데이터(data.sql)의 프로모션은 기간이 지났으므로, 기간이 충분히 긴 프로모션을 추가해 사용한다.
+ * - 테스트 트랜잭션 안에서 추가하며, 롤백 후 메모리 상태는 각 테스트에서 다시 계산해야 한다.
+ */
+final class PromotionFixture {
+    static final int COUPON_5000_WON = 100;     // 5,000원 할인쿠폰
+    static final int CODE_10_PERCENT = 101;     // 10% 할인코드
+    static final int COUPON_16000_WON = 102;    // 16,000원 할인쿠폰
+    static final int COUPON_16000_WON_2 = 103;  // 16,000원 할인쿠폰
+
+    private PromotionFixture() {
+    }
+
+    static void insertPromotions(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("INSERT INTO promotion VALUES (?, 'COUPON', '5000원 할인쿠폰', 'WON', 5000, '2000-01-01', '2999-12-31')", COUPON_5000_WON);
+        jdbcTemplate.update("INSERT INTO promotion VALUES (?, 'CODE', '10% 할인코드', 'PERCENT', 10, '2000-01-01', '2999-12-31')", CODE_10_PERCENT);
+        jdbcTemplate.update("INSERT INTO promotion VALUES (?, 'COUPON', '16000원 할인쿠폰', 'WON', 16000, '2000-01-01', '2999-12-31')", COUPON_16000_WON);
+        jdbcTemplate.update("INSERT INTO promotion VALUES (?, 'COUPON', '16000원 할인쿠폰', 'WON', 16000, '2000-01-01', '2999-12-31')", COUPON_16000_WON_2);
+    }
+
+    /**
+     * 프로모션을 상품에 매핑한다. (매핑 아이디는 프로모션 아이디 * 10 + 상품 아이디)
+     */
+    static void mapPromotion(JdbcTemplate jdbcTemplate, int promotionId, int productId) {
+        jdbcTemplate.update("INSERT INTO promotion_products VALUES (?, ?, ?)", promotionId * 10 + productId, promotionId, productId);
+    }
+}
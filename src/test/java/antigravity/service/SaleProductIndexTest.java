@@ -0,0 +1,100 @@
+package antigravity.service;
+
+import antigravity.model.response.SaleProductResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@DisplayName("할인 상품 인덱스 테스트")
+class SaleProductIndexTest {
+
+    private static final long NOW = 1_000L;
+
+    private final SaleProductIndex index = SaleProductIndex.of(Arrays.asList(
+            entry(3, 50000, Long.MAX_VALUE),
+            entry(1, 40000, Long.MAX_VALUE),
+            entry(4, 50000, Long.MAX_VALUE),
+            entry(2, 90000, Long.MAX_VALUE)
+    ));
+
+    @Test
+    @DisplayName("첫 페이지 - 확정 가격, 상품 아이디 오름차순")
+    void first_page() {
+        // when
+        List<SaleProductResponse> products = index.page(null, null, 3, NOW);
+
+        // then
+        assertThat(products).extracting(SaleProductResponse::getProductId).containsExactly(1, 3, 4);
+    }
+
+    @Test
+    @DisplayName("다음 페이지 - 같은 확정 가격 내에서 커서 이후 상품부터 조회")
+    void next_page_with_same_price() {
+        // when
+        List<SaleProductResponse> products = index.page(50000, 3, 3, NOW);
+
+        // then
+        assertThat(products).extracting(SaleProductResponse::getProductId).containsExactly(4, 2);
+    }
+
+    @Test
+    @DisplayName("마지막 페이지 이후 - 빈 리스트")
+    void after_last_page() {
+        // when
+        List<SaleProductResponse> products = index.page(90000, 2, 3, NOW);
+
+        // then
+        assertAll(
+                () -> assertThat(products).isEmpty(),
+                () -> assertThat(index.size()).isEqualTo(4)
+        );
+    }
+
+    @Test
+    @DisplayName("갱신 - 지정한 상품만 교체, 제거")
+    void update_only_given_products() {
+        // when
+        // 상품1 가격 변경, 상품3 제거, 상품5 추가 (상품2, 4 는 유지)
+        SaleProductIndex updated = index.update(Arrays.asList(1, 3, 5), Arrays.asList(
+                entry(1, 60000, Long.MAX_VALUE),
+                entry(5, 10000, Long.MAX_VALUE)
+        ));
+
+        // then
+        assertAll(
+                () -> assertThat(updated.page(null, null, 10, NOW)).extracting(SaleProductResponse::getProductId).containsExactly(5, 4, 1, 2),
+                () -> assertThat(index.size()).isEqualTo(4)
+        );
+    }
+
+    @Test
+    @DisplayName("적용된 프로모션이 종료된 상품은 다시 계산 전이라도 제외")
+    void skip_expired_products() {
+        // given
+        SaleProductIndex expiring = SaleProductIndex.of(Arrays.asList(
+                entry(1, 40000, NOW - 1),
+                entry(2, 50000, NOW),
+                entry(3, 60000, NOW - 1),
+                entry(4, 70000, Long.MAX_VALUE)
+        ));
+
+        // when
+        List<SaleProductResponse> products = expiring.page(null, null, 2, NOW);
+
+        // then
+        assertThat(products).extracting(SaleProductResponse::getProductId).containsExactly(2, 4);
+    }
+
+    private static SaleProductIndex.Entry entry(int productId, int finalPrice, long expiresAt) {
+        return new SaleProductIndex.Entry(SaleProductResponse.builder()
+                .productId(productId)
+                .name("피팅노드상품" + productId)
+                .finalPrice(finalPrice)
+                .build(), expiresAt);
+    }
+}
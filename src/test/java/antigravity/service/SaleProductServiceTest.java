@@ -0,0 +1,136 @@
+package antigravity.service;
+
+import antigravity.error.ErrorCode;
+import antigravity.error.exception.CustomException;
+import antigravity.model.request.SaleProductRequest;
+import antigravity.model.response.SaleProductPageResponse;
+import antigravity.model.response.SaleProductResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.transaction.AfterTransaction;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static antigravity.service.PromotionFixture.CODE_10_PERCENT;
+import static antigravity.service.PromotionFixture.COUPON_16000_WON;
+import static antigravity.service.PromotionFixture.COUPON_16000_WON_2;
+import static antigravity.service.PromotionFixture.COUPON_5000_WON;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@Transactional
+@DisplayName("할인 상품 목록 테스트")
+class SaleProductServiceTest {
+
+    @Autowired
+    private SaleProductService saleProductService;
+
+    @Autowired
+    private ProductAmountMaterializer productAmountMaterializer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // 상품4 : 50,000 - 5,000원 할인 = 45,000 -> 40,000 (천단위 절삭)
+        // 상품2 : 100,000 - 10% 할인 = 90,000
+        PromotionFixture.insertPromotions(jdbcTemplate);
+        PromotionFixture.mapPromotion(jdbcTemplate, COUPON_5000_WON, 4);
+        PromotionFixture.mapPromotion(jdbcTemplate, CODE_10_PERCENT, 2);
+
+        productAmountMaterializer.refreshProducts(Arrays.asList(2, 4));
+    }
+
+    @AfterTransaction
+    void tearDown() {
+        // 롤백된 데이터로 만든 인덱스가 다른 테스트에 남지 않도록 다시 계산
+        productAmountMaterializer.refreshAll();
+    }
+
+    @Test
+    @DisplayName("성공 테스트 - 확정 가격 오름차순 커서 페이지 조회")
+    void get_sale_products_success() {
+        // when
+        SaleProductPageResponse first = saleProductService.getSaleProducts(SaleProductRequest.builder()
+                .size(1)
+                .build());
+        SaleProductPageResponse second = saleProductService.getSaleProducts(SaleProductRequest.builder()
+                .cursorPrice(first.getNextCursorPrice())
+                .cursorId(first.getNextCursorId())
+                .size(1)
+                .build());
+
+        // then
+        assertAll(
+                () -> assertThat(first.getProducts()).extracting(SaleProductResponse::getProductId).containsExactly(4),
+                () -> assertThat(first.getProducts().get(0).getFinalPrice()).isEqualTo(40000),
+                () -> assertThat(first.isHasNext()).isTrue(),
+                () -> assertThat(second.getProducts()).extracting(SaleProductResponse::getProductId).containsExactly(2),
+                () -> assertThat(second.getProducts().get(0).getFinalPrice()).isEqualTo(90000),
+                () -> assertThat(second.isHasNext()).isFalse()
+        );
+    }
+
+    @Test
+    @DisplayName("성공 테스트 - 전체 적용 시 할인 초과인 상품은 가장 낮은 유효 조합으로 조회")
+    void get_sale_products_success_best_combination() {
+        // given
+        // 상품3 : 30,000 - 16,000원 - 16,000원 = 할인 초과, 쿠폰 1개만 적용 시 14,000 -> 10,000 (천단위 절삭)
+        PromotionFixture.mapPromotion(jdbcTemplate, COUPON_16000_WON, 3);
+        PromotionFixture.mapPromotion(jdbcTemplate, COUPON_16000_WON_2, 3);
+
+        productAmountMaterializer.refreshProducts(Collections.singletonList(3));
+
+        // when
+        SaleProductPageResponse page = saleProductService.getSaleProducts(SaleProductRequest.builder().build());
+
+        // then
+        assertAll(
+                () -> assertThat(page.getProducts()).extracting(SaleProductResponse::getProductId).containsExactly(3, 4, 2),
+                () -> assertThat(page.getProducts().get(0).getFinalPrice()).isEqualTo(10000),
+                () -> assertThat(page.getProducts().get(0).getDiscountPrice()).isEqualTo(16000),
+                () -> assertThat(page.isHasNext()).isFalse()
+        );
+    }
+
+    @Test
+    @DisplayName("다시 계산된 상품만 목록에 반영")
+    void get_sale_products_only_materialized_products_updated() {
+        // given
+        // 상품3 에 매핑했지만 상품2 만 다시 계산
+        PromotionFixture.mapPromotion(jdbcTemplate, COUPON_5000_WON, 3);
+        jdbcTemplate.update("DELETE FROM promotion_products WHERE promotion_id = ? AND product_id = 2", CODE_10_PERCENT);
+
+        productAmountMaterializer.refreshProducts(Collections.singletonList(2));
+
+        // when
+        SaleProductPageResponse page = saleProductService.getSaleProducts(SaleProductRequest.builder().build());
+
+        // then
+        assertThat(page.getProducts()).extracting(SaleProductResponse::getProductId).containsExactly(4);
+    }
+
+    @Test
+    @DisplayName("실패 테스트 - 커서 값 일부만 요청")
+    void get_sale_products_failure_invalid_cursor() {
+        // given
+        SaleProductRequest request = SaleProductRequest.builder()
+                .cursorPrice(40000)
+                .build();
+
+        // when
+        CustomException customException = assertThrows(CustomException.class, () -> saleProductService.getSaleProducts(request));
+
+        // then
+        assertThat(customException.getErrorCode()).isEqualTo(ErrorCode.INVALID_CURSOR);
+    }
+}